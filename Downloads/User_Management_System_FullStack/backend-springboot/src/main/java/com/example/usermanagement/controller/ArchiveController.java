@@ -0,0 +1,41 @@
+package com.example.usermanagement.controller;
+
+import com.example.usermanagement.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/archive")
+@CrossOrigin(origins = "*")
+public class ArchiveController {
+    
+    @Autowired
+    private ArchiveService archiveService;
+    
+    // Get Archive Metrics
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        Map<String, Object> metrics = archiveService.getMetrics();
+        return ResponseEntity.ok(metrics);
+    }
+    
+    // Run Archival Now
+    @PostMapping("/run")
+    public ResponseEntity<?> runArchival() {
+        try {
+            int archived = archiveService.runArchival();
+            Map<String, Object> response = new HashMap<>();
+            response.put("archivedUsers", archived);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.usermanagement.controller;
+
+import com.example.usermanagement.service.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/coalescing")
+@CrossOrigin(origins = "*")
+public class CoalescingController {
+    
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+    
+    // Get Coalescing Stats
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Long>> getStats() {
+        Map<String, Long> stats = requestCoalescer.getStats();
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.usermanagement.controller;
+
+import com.example.usermanagement.service.SnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/snapshots")
+@CrossOrigin(origins = "*")
+public class SnapshotController {
+    
+    @Autowired
+    private SnapshotService snapshotService;
+    
+    // Export Snapshot
+    @PostMapping("/{name}/export")
+    public ResponseEntity<?> exportSnapshot(@PathVariable String name) {
+        try {
+            Map<String, Object> summary = snapshotService.exportSnapshot(snapshotService.resolve(name));
+            return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+    
+    // Import Snapshot
+    @PostMapping("/{name}/import")
+    public ResponseEntity<?> importSnapshot(@PathVariable String name) {
+        try {
+            Map<String, Object> summary = snapshotService.importSnapshot(snapshotService.resolve(name));
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+}
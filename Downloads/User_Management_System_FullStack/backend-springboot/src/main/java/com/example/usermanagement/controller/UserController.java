@@ -1,6 +1,7 @@
 package com.example.usermanagement.controller;
 
 import com.example.usermanagement.dto.UserMasterDTO;
+import com.example.usermanagement.dto.UserStatsDTO;
 import com.example.usermanagement.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +41,13 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    // Get User and Address Counts
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsDTO> getStats() {
+        UserStatsDTO stats = userService.getStats();
+        return ResponseEntity.ok(stats);
+    }
+    
     // Get User by ID
     @GetMapping("/{id}")
     public ResponseEntity<?> getUserById(@PathVariable Long id) {
@@ -0,0 +1,61 @@
+package com.example.usermanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class UserStatsDTO {
+    
+    private long totalUsers;
+    
+    private long totalAddresses;
+    
+    private Map<String, Long> usersByStatus;
+    
+    private Map<String, Long> addressesByType;
+    
+    private LocalDateTime lastReconciled;
+    
+    // Constructors
+    public UserStatsDTO() {}
+    
+    // Getters and Setters
+    public long getTotalUsers() {
+        return totalUsers;
+    }
+    
+    public void setTotalUsers(long totalUsers) {
+        this.totalUsers = totalUsers;
+    }
+    
+    public long getTotalAddresses() {
+        return totalAddresses;
+    }
+    
+    public void setTotalAddresses(long totalAddresses) {
+        this.totalAddresses = totalAddresses;
+    }
+    
+    public Map<String, Long> getUsersByStatus() {
+        return usersByStatus;
+    }
+    
+    public void setUsersByStatus(Map<String, Long> usersByStatus) {
+        this.usersByStatus = usersByStatus;
+    }
+    
+    public Map<String, Long> getAddressesByType() {
+        return addressesByType;
+    }
+    
+    public void setAddressesByType(Map<String, Long> addressesByType) {
+        this.addressesByType = addressesByType;
+    }
+    
+    public LocalDateTime getLastReconciled() {
+        return lastReconciled;
+    }
+    
+    public void setLastReconciled(LocalDateTime lastReconciled) {
+        this.lastReconciled = lastReconciled;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.usermanagement.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Cold copy of a user_addresses row belonging to an archived user
+@Entity
+@Table(name = "user_addresses_archive", indexes = @Index(name = "idx_archive_user_id", columnList = "user_id"))
+public class UserAddressesArchive {
+    
+    @Id
+    @Column(name = "address_id")
+    private Long addressId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "full_address", nullable = false, columnDefinition = "TEXT")
+    private String fullAddress;
+    
+    @Column(name = "address_type", length = 50)
+    private String addressType;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public UserAddressesArchive() {}
+    
+    // Getters and Setters
+    public Long getAddressId() {
+        return addressId;
+    }
+    
+    public void setAddressId(Long addressId) {
+        this.addressId = addressId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getFullAddress() {
+        return fullAddress;
+    }
+    
+    public void setFullAddress(String fullAddress) {
+        this.fullAddress = fullAddress;
+    }
+    
+    public String getAddressType() {
+        return addressType;
+    }
+    
+    public void setAddressType(String addressType) {
+        this.addressType = addressType;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -34,12 +34,16 @@ public class UserMaster {
     @Column(name = "status", nullable = false, length = 20)
     private String status; // ACTIVE, INACTIVE, SUSPENDED
     
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+    
     @OneToMany(mappedBy = "userMaster", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<UserAddresses> addresses;
     
     @PrePersist
     protected void onCreate() {
         dateOfRegistration = LocalDateTime.now();
+        statusUpdatedAt = dateOfRegistration;
         if (status == null) {
             status = "ACTIVE";
         }
@@ -104,6 +108,14 @@ public class UserMaster {
         this.status = status;
     }
     
+    public LocalDateTime getStatusUpdatedAt() {
+        return statusUpdatedAt;
+    }
+    
+    public void setStatusUpdatedAt(LocalDateTime statusUpdatedAt) {
+        this.statusUpdatedAt = statusUpdatedAt;
+    }
+    
     public List<UserAddresses> getAddresses() {
         return addresses;
     }
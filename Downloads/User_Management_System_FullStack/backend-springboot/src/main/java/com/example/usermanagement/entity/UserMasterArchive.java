@@ -0,0 +1,103 @@
+package com.example.usermanagement.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Cold copy of a user_master row; ids are kept so the user can be restored as-is
+@Entity
+@Table(name = "user_master_archive")
+public class UserMasterArchive {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "user_name", nullable = false, unique = true, length = 100)
+    private String userName;
+    
+    @Column(name = "user_password", nullable = false)
+    private String userPassword;
+    
+    @Column(name = "user_phone_number", nullable = false, length = 15)
+    private String userPhoneNumber;
+    
+    @Column(name = "date_of_registration", nullable = false)
+    private LocalDateTime dateOfRegistration;
+    
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Constructors
+    public UserMasterArchive() {}
+    
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public String getUserName() {
+        return userName;
+    }
+    
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+    
+    public String getUserPassword() {
+        return userPassword;
+    }
+    
+    public void setUserPassword(String userPassword) {
+        this.userPassword = userPassword;
+    }
+    
+    public String getUserPhoneNumber() {
+        return userPhoneNumber;
+    }
+    
+    public void setUserPhoneNumber(String userPhoneNumber) {
+        this.userPhoneNumber = userPhoneNumber;
+    }
+    
+    public LocalDateTime getDateOfRegistration() {
+        return dateOfRegistration;
+    }
+    
+    public void setDateOfRegistration(LocalDateTime dateOfRegistration) {
+        this.dateOfRegistration = dateOfRegistration;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getStatusUpdatedAt() {
+        return statusUpdatedAt;
+    }
+    
+    public void setStatusUpdatedAt(LocalDateTime statusUpdatedAt) {
+        this.statusUpdatedAt = statusUpdatedAt;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+    
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.usermanagement.repository;
+
+import com.example.usermanagement.entity.UserAddressesArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserAddressesArchiveRepository extends JpaRepository<UserAddressesArchive, Long> {
+    List<UserAddressesArchive> findByUserId(Long userId);
+    
+    @Query("SELECT a.addressType, COUNT(a) FROM UserAddressesArchive a GROUP BY a.addressType")
+    List<Object[]> countGroupByAddressType();
+    
+    @Modifying
+    @Query("DELETE FROM UserAddressesArchive a WHERE a.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+    
+    @Modifying
+    @Query(value = "INSERT INTO user_addresses_archive (address_id, user_id, full_address, address_type, archived_at) " +
+            "SELECT address_id, user_id, full_address, address_type, :archivedAt " +
+            "FROM user_addresses WHERE user_id IN (:userIds)", nativeQuery = true)
+    int copyFromHot(@Param("userIds") Collection<Long> userIds, @Param("archivedAt") LocalDateTime archivedAt);
+    
+    @Modifying
+    @Query(value = "INSERT INTO user_addresses (address_id, user_id, full_address, address_type) " +
+            "SELECT address_id, user_id, full_address, address_type " +
+            "FROM user_addresses_archive WHERE user_id = :userId", nativeQuery = true)
+    int copyToHot(@Param("userId") Long userId);
+}
@@ -2,11 +2,22 @@ package com.example.usermanagement.repository;
 
 import com.example.usermanagement.entity.UserAddresses;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserAddressesRepository extends JpaRepository<UserAddresses, Long> {
     List<UserAddresses> findByUserMaster_UserId(Long userId);
     void deleteByUserMaster_UserId(Long userId);
+    
+    @Query("SELECT a.addressType, COUNT(a) FROM UserAddresses a GROUP BY a.addressType")
+    List<Object[]> countGroupByAddressType();
+    
+    @Modifying
+    @Query("DELETE FROM UserAddresses a WHERE a.userMaster.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
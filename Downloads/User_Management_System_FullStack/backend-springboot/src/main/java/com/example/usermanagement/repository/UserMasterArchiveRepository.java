@@ -0,0 +1,33 @@
+package com.example.usermanagement.repository;
+
+import com.example.usermanagement.entity.UserMasterArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserMasterArchiveRepository extends JpaRepository<UserMasterArchive, Long> {
+    boolean existsByUserName(String userName);
+    
+    @Query("SELECT u.status, COUNT(u) FROM UserMasterArchive u GROUP BY u.status")
+    List<Object[]> countGroupByStatus();
+    
+    @Modifying
+    @Query(value = "INSERT INTO user_master_archive (user_id, user_name, user_password, user_phone_number, " +
+            "date_of_registration, status, status_updated_at, archived_at) " +
+            "SELECT user_id, user_name, user_password, user_phone_number, date_of_registration, status, " +
+            "status_updated_at, :archivedAt FROM user_master WHERE user_id IN (:ids)", nativeQuery = true)
+    int copyFromHot(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+    
+    @Modifying
+    @Query(value = "INSERT INTO user_master (user_id, user_name, user_password, user_phone_number, " +
+            "date_of_registration, status, status_updated_at) " +
+            "SELECT user_id, user_name, user_password, user_phone_number, date_of_registration, status, " +
+            "status_updated_at FROM user_master_archive WHERE user_id = :id", nativeQuery = true)
+    int copyToHot(@Param("id") Long id);
+}
@@ -2,7 +2,12 @@ package com.example.usermanagement.repository;
 
 import com.example.usermanagement.entity.UserMaster;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -11,4 +16,19 @@ public interface UserMasterRepository extends JpaRepository<UserMaster, Long> {
     Optional<UserMaster> findByUserName(String userName);
     List<UserMaster> findByStatus(String status);
     boolean existsByUserName(String userName);
+    
+    @Query("SELECT u.status, COUNT(u) FROM UserMaster u GROUP BY u.status")
+    List<Object[]> countGroupByStatus();
+    
+    // Locks the batch so a concurrent update can't slip in between copy and delete
+    @Query(value = "SELECT user_id FROM user_master WHERE status IN (:statuses) " +
+            "AND COALESCE(status_updated_at, date_of_registration) < :cutoff " +
+            "ORDER BY user_id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockArchivableUserIds(@Param("statuses") Collection<String> statuses,
+                                     @Param("cutoff") LocalDateTime cutoff,
+                                     @Param("limit") int limit);
+    
+    @Modifying
+    @Query("DELETE FROM UserMaster u WHERE u.userId IN :ids")
+    int deleteByUserIdIn(@Param("ids") Collection<Long> ids);
 }
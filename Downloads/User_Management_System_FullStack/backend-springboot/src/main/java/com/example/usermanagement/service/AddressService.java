@@ -21,10 +21,25 @@ public class AddressService {
     @Autowired
     private UserMasterRepository userMasterRepository;
     
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+    
+    @Autowired
+    private UserStatsService userStatsService;
+    
+    @Autowired
+    private SnapshotService snapshotService;
+    
+    @Autowired
+    private ArchiveService archiveService;
+    
     // Create Address
     @Transactional
     public AddressDTO createAddress(AddressDTO addressDTO) {
+        snapshotService.checkWritable();
+        // Adding an address to an archived user brings it back to the hot table
         UserMaster user = userMasterRepository.findById(addressDTO.getUserId())
+                .or(() -> archiveService.restoreUser(addressDTO.getUserId()))
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + addressDTO.getUserId()));
         
         UserAddresses address = new UserAddresses();
@@ -33,6 +48,8 @@ public class AddressService {
         address.setAddressType(addressDTO.getAddressType());
         
         UserAddresses savedAddress = addressRepository.save(address);
+        userStatsService.addressCreated(savedAddress.getAddressType());
+        invalidateUserReads(user.getUserId());
         return convertToDTO(savedAddress);
     }
     
@@ -45,38 +62,57 @@ public class AddressService {
     
     // Get Address by ID
     public AddressDTO getAddressById(Long id) {
-        UserAddresses address = addressRepository.findById(id)
+        return addressRepository.findById(id)
+                .map(this::convertToDTO)
+                .or(() -> archiveService.findArchivedAddress(id))
                 .orElseThrow(() -> new RuntimeException("Address not found with id: " + id));
-        return convertToDTO(address);
     }
     
     // Get Addresses by User ID
     public List<AddressDTO> getAddressesByUserId(Long userId) {
-        return addressRepository.findByUserMaster_UserId(userId).stream()
+        List<AddressDTO> addresses = addressRepository.findByUserMaster_UserId(userId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        if (addresses.isEmpty() && !userMasterRepository.existsById(userId)) {
+            return archiveService.findArchivedAddresses(userId);
+        }
+        return addresses;
     }
     
     // Update Address
     @Transactional
     public AddressDTO updateAddress(Long id, AddressDTO addressDTO) {
+        snapshotService.checkWritable();
         UserAddresses existingAddress = addressRepository.findById(id)
+                .or(() -> archiveService.restoreAddress(id))
                 .orElseThrow(() -> new RuntimeException("Address not found with id: " + id));
         
+        String previousType = existingAddress.getAddressType();
         existingAddress.setFullAddress(addressDTO.getFullAddress());
         existingAddress.setAddressType(addressDTO.getAddressType());
         
         UserAddresses updatedAddress = addressRepository.save(existingAddress);
+        userStatsService.addressTypeChanged(previousType, updatedAddress.getAddressType());
+        invalidateUserReads(updatedAddress.getUserId());
         return convertToDTO(updatedAddress);
     }
     
     // Delete Address
     @Transactional
     public void deleteAddress(Long id) {
-        if (!addressRepository.existsById(id)) {
-            throw new RuntimeException("Address not found with id: " + id);
-        }
-        addressRepository.deleteById(id);
+        snapshotService.checkWritable();
+        UserAddresses address = addressRepository.findById(id)
+                .or(() -> archiveService.restoreAddress(id))
+                .orElseThrow(() -> new RuntimeException("Address not found with id: " + id));
+        addressRepository.delete(address);
+        userStatsService.addressDeleted(address.getAddressType());
+        invalidateUserReads(address.getUserId());
+    }
+    
+    // User reads embed addresses, so address writes must detach them too
+    private void invalidateUserReads(Long userId) {
+        requestCoalescer.invalidate("user", userId);
+        requestCoalescer.invalidateNamespace("status");
     }
     
     // Helper method to convert Entity to DTO
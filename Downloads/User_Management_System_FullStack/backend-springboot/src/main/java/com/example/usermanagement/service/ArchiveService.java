@@ -0,0 +1,298 @@
+package com.example.usermanagement.service;
+
+import com.example.usermanagement.dto.AddressDTO;
+import com.example.usermanagement.dto.UserMasterDTO;
+import com.example.usermanagement.entity.UserAddresses;
+import com.example.usermanagement.entity.UserAddressesArchive;
+import com.example.usermanagement.entity.UserMaster;
+import com.example.usermanagement.entity.UserMasterArchive;
+import com.example.usermanagement.repository.UserAddressesArchiveRepository;
+import com.example.usermanagement.repository.UserAddressesRepository;
+import com.example.usermanagement.repository.UserMasterArchiveRepository;
+import com.example.usermanagement.repository.UserMasterRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Moves long-dormant users (and their addresses) out of the hot tables into
+// user_master_archive / user_addresses_archive, and back again on demand.
+@Service
+public class ArchiveService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+    
+    @Autowired
+    private UserMasterRepository userMasterRepository;
+    
+    @Autowired
+    private UserAddressesRepository userAddressesRepository;
+    
+    @Autowired
+    private UserMasterArchiveRepository userMasterArchiveRepository;
+    
+    @Autowired
+    private UserAddressesArchiveRepository userAddressesArchiveRepository;
+    
+    @Autowired
+    private UserStatsService userStatsService;
+    
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private SnapshotService snapshotService;
+    
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.archive.statuses:INACTIVE,SUSPENDED}")
+    private String[] archivableStatuses;
+    
+    @Value("${app.archive.inactive-days:180}")
+    private long inactiveDays;
+    
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${app.archive.batch-pause-ms:200}")
+    private long batchPauseMs;
+    
+    @Value("${app.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+    
+    private List<String> statuses;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    private final AtomicLong usersArchived = new AtomicLong();
+    private final AtomicLong usersRestored = new AtomicLong();
+    private final AtomicLong archiveLookups = new AtomicLong();
+    private final AtomicLong archiveHits = new AtomicLong();
+    
+    private volatile LocalDateTime lastRun;
+    
+    @PostConstruct
+    void init() {
+        statuses = Arrays.stream(archivableStatuses)
+                .map(String::trim)
+                .filter(status -> !status.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+    }
+    
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}",
+               initialDelayString = "${app.archive.interval-ms:3600000}")
+    public void scheduledArchival() {
+        if (!enabled) {
+            return;
+        }
+        // A manual run or snapshot import already has the tables; try again next interval
+        if (snapshotService.isImporting() || !running.compareAndSet(false, true)) {
+            log.debug("Skipping scheduled archival, another archival or import is running");
+            return;
+        }
+        archive();
+    }
+    
+    // Archive eligible users in throttled batches; returns how many were moved
+    public int runArchival() {
+        snapshotService.checkWritable();
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("Archival is already running");
+        }
+        return archive();
+    }
+    
+    // Caller must hold the running flag
+    private int archive() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(inactiveDays);
+            TransactionTemplate batchTx = new TransactionTemplate(transactionManager);
+            int total = 0;
+            
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer moved = batchTx.execute(status -> archiveBatch(cutoff));
+                total += moved;
+                if (moved < batchSize) {
+                    break;
+                }
+                // Give foreground traffic room between batches
+                Thread.sleep(batchPauseMs);
+            }
+            
+            lastRun = LocalDateTime.now();
+            if (total > 0) {
+                log.info("Archived {} users inactive since before {}", total, cutoff);
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Archival interrupted", e);
+        } finally {
+            running.set(false);
+        }
+    }
+    
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = userMasterRepository.lockArchivableUserIds(statuses, cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        LocalDateTime archivedAt = LocalDateTime.now();
+        userMasterArchiveRepository.copyFromHot(ids, archivedAt);
+        userAddressesArchiveRepository.copyFromHot(ids, archivedAt);
+        userAddressesRepository.deleteByUserIdIn(ids);
+        userMasterRepository.deleteByUserIdIn(ids);
+        
+        usersArchived.addAndGet(ids.size());
+        ids.forEach(id -> requestCoalescer.invalidate("user", id));
+        requestCoalescer.invalidateNamespace("status");
+        return ids.size();
+    }
+    
+    // Fall-through read for users no longer in the hot table. It may run inside a
+    // coalesced read, so callers report each lookup with recordLookup themselves.
+    public Optional<UserMasterDTO> findArchivedUser(Long id) {
+        return userMasterArchiveRepository.findById(id).map(this::convertToDTO);
+    }
+    
+    // Count one request that fell through to the archive
+    public void recordLookup(boolean hit) {
+        archiveLookups.incrementAndGet();
+        if (hit) {
+            archiveHits.incrementAndGet();
+        }
+    }
+    
+    // Move an archived user back into the hot tables, keeping its ids
+    @Transactional
+    public Optional<UserMaster> restoreUser(Long id) {
+        if (!userMasterArchiveRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        
+        userMasterArchiveRepository.copyToHot(id);
+        userAddressesArchiveRepository.copyToHot(id);
+        userAddressesArchiveRepository.deleteByUserId(id);
+        userMasterArchiveRepository.deleteById(id);
+        
+        usersRestored.incrementAndGet();
+        requestCoalescer.invalidateNamespace("status");
+        log.debug("Restored user {} from archive", id);
+        
+        // Restoring counts as activity; otherwise a user left INACTIVE would still be
+        // past the cutoff and go straight back to the archive on the next pass
+        return userMasterRepository.findById(id).map(user -> {
+            user.setStatusUpdatedAt(LocalDateTime.now());
+            return user;
+        });
+    }
+    
+    // Restore the archived owner of an address and return the address from the hot table
+    @Transactional
+    public Optional<UserAddresses> restoreAddress(Long addressId) {
+        return userAddressesArchiveRepository.findById(addressId)
+                .flatMap(address -> restoreUser(address.getUserId()))
+                .flatMap(user -> userAddressesRepository.findById(addressId));
+    }
+    
+    // Fall-through reads for addresses of users no longer in the hot table
+    public Optional<AddressDTO> findArchivedAddress(Long addressId) {
+        Optional<AddressDTO> address = userAddressesArchiveRepository.findById(addressId).map(this::convertAddressToDTO);
+        recordLookup(address.isPresent());
+        return address;
+    }
+    
+    public List<AddressDTO> findArchivedAddresses(Long userId) {
+        List<AddressDTO> addresses = userAddressesArchiveRepository.findByUserId(userId).stream()
+                .map(this::convertAddressToDTO)
+                .collect(Collectors.toList());
+        recordLookup(!addresses.isEmpty());
+        return addresses;
+    }
+    
+    // Delete an archived user outright; returns false if it isn't archived
+    @Transactional
+    public boolean deleteArchivedUser(Long id) {
+        Optional<UserMasterArchive> user = userMasterArchiveRepository.findById(id);
+        if (user.isEmpty()) {
+            return false;
+        }
+        
+        List<String> addressTypes = userAddressesArchiveRepository.findByUserId(id).stream()
+                .map(UserAddressesArchive::getAddressType)
+                .collect(Collectors.toList());
+        userAddressesArchiveRepository.deleteByUserId(id);
+        userMasterArchiveRepository.delete(user.get());
+        userStatsService.userDeleted(user.get().getStatus(), addressTypes);
+        return true;
+    }
+    
+    public boolean isUserNameArchived(String userName) {
+        return userMasterArchiveRepository.existsByUserName(userName);
+    }
+    
+    // Get Archive Metrics
+    public Map<String, Object> getMetrics() {
+        long lookups = archiveLookups.get();
+        long hits = archiveHits.get();
+        
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("hotUsers", userMasterRepository.count());
+        metrics.put("archivedUsers", userMasterArchiveRepository.count());
+        metrics.put("usersArchived", usersArchived.get());
+        metrics.put("usersRestored", usersRestored.get());
+        metrics.put("archiveLookups", lookups);
+        metrics.put("archiveHits", hits);
+        metrics.put("archiveHitRate", lookups == 0 ? 0.0 : (double) hits / lookups);
+        metrics.put("lastRun", lastRun);
+        return metrics;
+    }
+    
+    // Helper method to convert archived Entity to DTO
+    private UserMasterDTO convertToDTO(UserMasterArchive user) {
+        UserMasterDTO dto = new UserMasterDTO();
+        dto.setUserId(user.getUserId());
+        dto.setUserName(user.getUserName());
+        dto.setUserPassword("******"); // Don't expose password
+        dto.setUserPhoneNumber(user.getUserPhoneNumber());
+        dto.setDateOfRegistration(user.getDateOfRegistration());
+        dto.setStatus(user.getStatus());
+        
+        List<AddressDTO> addressDTOs = userAddressesArchiveRepository.findByUserId(user.getUserId()).stream()
+                .map(this::convertAddressToDTO)
+                .collect(Collectors.toList());
+        dto.setAddresses(addressDTOs);
+        
+        return dto;
+    }
+    
+    private AddressDTO convertAddressToDTO(UserAddressesArchive address) {
+        AddressDTO dto = new AddressDTO();
+        dto.setAddressId(address.getAddressId());
+        dto.setUserId(address.getUserId());
+        dto.setFullAddress(address.getFullAddress());
+        dto.setAddressType(address.getAddressType());
+        return dto;
+    }
+}
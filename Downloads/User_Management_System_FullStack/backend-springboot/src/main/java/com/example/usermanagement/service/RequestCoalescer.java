@@ -0,0 +1,127 @@
+package com.example.usermanagement.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Single-flight layer for read paths: concurrent calls with the same key share
+// one execution of the loader. Nothing is cached once the flight lands.
+@Component
+public class RequestCoalescer {
+    
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+    
+    @Value("${app.coalescing.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.coalescing.timeout-ms:5000}")
+    private long timeoutMs;
+    
+    @Value("${app.coalescing.keys:user,status}")
+    private String[] keys;
+    
+    private Set<String> namespaces;
+    
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    
+    @PostConstruct
+    void init() {
+        namespaces = Arrays.stream(keys)
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+    
+    // Run the loader once per key for all concurrent callers
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String namespace, Object id, Supplier<T> loader) {
+        if (!enabled || !namespaces.contains(namespace)) {
+            return loader.get();
+        }
+        
+        String key = namespace + ":" + id;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        
+        while (existing != null) {
+            coalesced.incrementAndGet();
+            try {
+                return (T) existing.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new RuntimeException(cause);
+            } catch (TimeoutException e) {
+                timeouts.incrementAndGet();
+                // Only the waiter that swaps out the stuck flight reloads; the rest
+                // join the new flight instead of all hitting a slow database at once
+                if (inFlight.replace(key, existing, flight)) {
+                    log.warn("Timed out after {} ms waiting for in-flight read {}, starting a new flight", timeoutMs, key);
+                    break;
+                }
+                existing = inFlight.putIfAbsent(key, flight);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for " + key, e);
+            }
+        }
+        
+        executions.incrementAndGet();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    // Detach the in-flight read for one key so later callers see the write.
+    // Readers that join before commit would see the old row anyway.
+    public void invalidate(String namespace, Object id) {
+        TransactionCallbacks.afterCommit(() -> inFlight.remove(namespace + ":" + id));
+    }
+    
+    // Detach every in-flight read in a namespace
+    public void invalidateNamespace(String namespace) {
+        String prefix = namespace + ":";
+        TransactionCallbacks.afterCommit(() -> inFlight.keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+    
+    // Get Coalescing Stats
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("executions", executions.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("inFlight", (long) inFlight.size());
+        return stats;
+    }
+}
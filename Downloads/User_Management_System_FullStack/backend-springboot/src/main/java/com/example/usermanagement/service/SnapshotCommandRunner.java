@@ -0,0 +1,56 @@
+package com.example.usermanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+// CLI mode: --snapshot.export=<dir> or --snapshot.import=<dir> runs once and exits.
+// Combine with --spring.main.web-application-type=none to skip the web server.
+@Component
+public class SnapshotCommandRunner implements ApplicationRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(SnapshotCommandRunner.class);
+    
+    @Autowired
+    private SnapshotService snapshotService;
+    
+    @Autowired
+    private ApplicationContext applicationContext;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        String exportDir = singleValue(args, "snapshot.export");
+        String importDir = singleValue(args, "snapshot.import");
+        if (exportDir == null && importDir == null) {
+            return;
+        }
+        
+        int exitCode = 0;
+        try {
+            if (exportDir != null) {
+                snapshotService.exportSnapshot(Path.of(exportDir));
+            } else {
+                snapshotService.importSnapshot(Path.of(importDir));
+            }
+        } catch (RuntimeException e) {
+            log.error("Snapshot failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> status));
+    }
+    
+    private static String singleValue(ApplicationArguments args, String name) {
+        if (!args.containsOption(name)) {
+            return null;
+        }
+        return args.getOptionValues(name).get(0);
+    }
+}
@@ -0,0 +1,574 @@
+package com.example.usermanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Bulk export/import of the user and address tables (hot and archive), bypassing JPA.
+// A snapshot is a directory holding a manifest plus gzip chunks; each chunk
+// stores its rows column by column so similar values compress together.
+@Service
+public class SnapshotService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SnapshotService.class);
+    
+    private static final String FORMAT = "ums-snapshot-v2";
+    private static final String MANIFEST = "manifest.properties";
+    
+    private enum ColumnType { LONG, STRING, TIMESTAMP }
+    
+    private record Column(String name, ColumnType type) {}
+    
+    private record Table(String name, String idColumn, List<Column> columns) {}
+    
+    private record Chunk(String file, int rows, long crc32, long bytes) {}
+    
+    // Parents first so foreign keys hold during import
+    private static final List<Table> TABLES = List.of(
+            new Table("user_master", "user_id", List.of(
+                    new Column("user_id", ColumnType.LONG),
+                    new Column("user_name", ColumnType.STRING),
+                    new Column("user_password", ColumnType.STRING),
+                    new Column("user_phone_number", ColumnType.STRING),
+                    new Column("date_of_registration", ColumnType.TIMESTAMP),
+                    new Column("status", ColumnType.STRING),
+                    new Column("status_updated_at", ColumnType.TIMESTAMP))),
+            new Table("user_addresses", "address_id", List.of(
+                    new Column("address_id", ColumnType.LONG),
+                    new Column("user_id", ColumnType.LONG),
+                    new Column("full_address", ColumnType.STRING),
+                    new Column("address_type", ColumnType.STRING))),
+            new Table("user_master_archive", "user_id", List.of(
+                    new Column("user_id", ColumnType.LONG),
+                    new Column("user_name", ColumnType.STRING),
+                    new Column("user_password", ColumnType.STRING),
+                    new Column("user_phone_number", ColumnType.STRING),
+                    new Column("date_of_registration", ColumnType.TIMESTAMP),
+                    new Column("status", ColumnType.STRING),
+                    new Column("status_updated_at", ColumnType.TIMESTAMP),
+                    new Column("archived_at", ColumnType.TIMESTAMP))),
+            new Table("user_addresses_archive", "address_id", List.of(
+                    new Column("address_id", ColumnType.LONG),
+                    new Column("user_id", ColumnType.LONG),
+                    new Column("full_address", ColumnType.STRING),
+                    new Column("address_type", ColumnType.STRING),
+                    new Column("archived_at", ColumnType.TIMESTAMP))));
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private UserStatsService userStatsService;
+    
+    @Value("${app.snapshot.chunk-rows:10000}")
+    private int chunkRows;
+    
+    @Value("${app.snapshot.parallelism:4}")
+    private int parallelism;
+    
+    @Value("${app.snapshot.base-dir:snapshots}")
+    private String baseDir;
+    
+    private final AtomicBoolean importing = new AtomicBoolean();
+    
+    // Resolve a snapshot name under the configured base directory
+    public Path resolve(String name) {
+        Path base = Path.of(baseDir).toAbsolutePath().normalize();
+        Path target = base.resolve(name).normalize();
+        if (name.isBlank() || !target.startsWith(base) || target.equals(base)) {
+            throw new RuntimeException("Invalid snapshot name: " + name);
+        }
+        return target;
+    }
+    
+    // Export Snapshot
+    public Map<String, Object> exportSnapshot(Path directory) {
+        long start = System.currentTimeMillis();
+        try {
+            Files.createDirectories(directory);
+            if (Files.exists(directory.resolve(MANIFEST))) {
+                throw new RuntimeException("Snapshot already exists at " + directory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        Map<Table, List<Chunk>> chunks = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            // Read both tables from one snapshot so addresses match their users
+            TransactionTemplate readTx = new TransactionTemplate(transactionManager);
+            readTx.setReadOnly(true);
+            readTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            readTx.executeWithoutResult(status -> {
+                for (Table table : TABLES) {
+                    chunks.put(table, exportTable(table, directory, executor));
+                }
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        writeManifest(directory, chunks);
+        Map<String, Object> summary = summarize(directory, chunks, start);
+        log.info("Exported snapshot {}", summary);
+        return summary;
+    }
+    
+    // Import Snapshot. API writes are rejected while it runs (see checkWritable), since
+    // id generators only move past the imported ids once every chunk is loaded.
+    public Map<String, Object> importSnapshot(Path directory) {
+        if (!importing.compareAndSet(false, true)) {
+            throw new RuntimeException("A snapshot import is already running");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Map<Table, List<Chunk>> chunks = readManifest(directory);
+            
+            for (Table table : TABLES) {
+                Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table.name(), Long.class);
+                if (existing != null && existing > 0) {
+                    throw new RuntimeException("Table " + table.name() + " is not empty; import needs empty tables");
+                }
+            }
+            
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                // Verify every checksum before touching the database
+                List<Future<?>> checks = new ArrayList<>();
+                chunks.values().forEach(tableChunks -> tableChunks.forEach(chunk ->
+                        checks.add(executor.submit(() -> readVerified(directory, chunk)))));
+                awaitAll(checks);
+                
+                try {
+                    // Parent table must be fully loaded before its children
+                    for (Table table : TABLES) {
+                        List<Future<?>> loads = new ArrayList<>();
+                        for (Chunk chunk : chunks.get(table)) {
+                            loads.add(executor.submit(() -> loadChunk(table, directory, chunk)));
+                        }
+                        awaitAll(loads);
+                    }
+                } catch (RuntimeException e) {
+                    // Chunks commit one by one, so undo the partial load and leave the
+                    // tables empty for a retry
+                    stop(executor);
+                    clearTables(e);
+                    throw e;
+                } finally {
+                    restartIdentity("user_master", "user_id", "user_master_archive");
+                    restartIdentity("user_addresses", "address_id", "user_addresses_archive");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            
+            userStatsService.reconcile();
+            Map<String, Object> summary = summarize(directory, chunks, start);
+            log.info("Imported snapshot {}", summary);
+            return summary;
+        } finally {
+            importing.set(false);
+        }
+    }
+    
+    public boolean isImporting() {
+        return importing.get();
+    }
+    
+    // Called by services before any write
+    public void checkWritable() {
+        if (importing.get()) {
+            throw new RuntimeException("Snapshot import in progress; writes are disabled until it finishes");
+        }
+    }
+    
+    // Children first so foreign keys hold while deleting
+    private void clearTables(RuntimeException cause) {
+        try {
+            for (int i = TABLES.size() - 1; i >= 0; i--) {
+                jdbcTemplate.update("DELETE FROM " + TABLES.get(i).name());
+            }
+            log.warn("Snapshot import failed; imported rows were removed", cause);
+        } catch (RuntimeException cleanupFailure) {
+            cause.addSuppressed(cleanupFailure);
+            log.error("Snapshot import failed and cleanup did not finish; empty the tables before retrying", cause);
+        }
+    }
+    
+    // Wait for loaders still running so cleanup doesn't race their inserts
+    private static void stop(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.MINUTES)) {
+                log.warn("Snapshot loaders did not stop within 5 minutes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // Stream rows with a forward-only cursor and hand full chunks to writer threads
+    private List<Chunk> exportTable(Table table, Path directory, ExecutorService executor) {
+        // Connector/J ignores a positive fetch size (unless useCursorFetch=true) and
+        // buffers the whole result; Integer.MIN_VALUE makes it stream row by row
+        int fetchSize = "MySQL".equalsIgnoreCase(databaseProduct()) ? Integer.MIN_VALUE : chunkRows;
+        String columns = table.columns().stream().map(Column::name).collect(Collectors.joining(", "));
+        String sql = "SELECT " + columns + " FROM " + table.name() + " ORDER BY " + table.idColumn();
+        
+        // Bound the chunks held in memory while writers catch up
+        Semaphore pending = new Semaphore(parallelism * 2);
+        List<Future<Chunk>> futures = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>(chunkRows);
+        
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            rows.add(readRow(table, rs));
+            if (rows.size() == chunkRows) {
+                futures.add(submitChunk(table, directory, futures.size(), new ArrayList<>(rows), executor, pending));
+                rows.clear();
+            }
+        });
+        if (!rows.isEmpty()) {
+            futures.add(submitChunk(table, directory, futures.size(), new ArrayList<>(rows), executor, pending));
+        }
+        
+        List<Chunk> chunks = new ArrayList<>();
+        for (Future<Chunk> future : futures) {
+            chunks.add(await(future));
+        }
+        return chunks;
+    }
+    
+    private Future<Chunk> submitChunk(Table table, Path directory, int index, List<Object[]> rows,
+                                      ExecutorService executor, Semaphore pending) {
+        pending.acquireUninterruptibly();
+        return executor.submit(() -> {
+            try {
+                return writeChunk(table, directory, index, rows);
+            } finally {
+                pending.release();
+            }
+        });
+    }
+    
+    private Chunk writeChunk(Table table, Path directory, int index, List<Object[]> rows) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(buffer, 64 * 1024))) {
+            out.writeInt(rows.size());
+            for (int c = 0; c < table.columns().size(); c++) {
+                ColumnType type = table.columns().get(c).type();
+                for (Object[] row : rows) {
+                    writeValue(out, type, row[c]);
+                }
+            }
+        }
+        byte[] bytes = buffer.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        
+        String file = String.format("%s-%05d.chunk.gz", table.name(), index);
+        try (FileChannel channel = FileChannel.open(directory.resolve(file),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer source = ByteBuffer.wrap(bytes);
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+            channel.force(false);
+        }
+        return new Chunk(file, rows.size(), crc.getValue(), bytes.length);
+    }
+    
+    // Read a chunk through NIO and verify it against the manifest
+    private byte[] readVerified(Path directory, Chunk chunk) throws IOException {
+        byte[] bytes;
+        try (FileChannel channel = FileChannel.open(directory.resolve(chunk.file()), StandardOpenOption.READ)) {
+            ByteBuffer target = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (target.hasRemaining() && channel.read(target) >= 0) {
+                // keep reading until the chunk is fully buffered
+            }
+            bytes = target.array();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        if (bytes.length != chunk.bytes() || crc.getValue() != chunk.crc32()) {
+            throw new RuntimeException("Checksum mismatch in snapshot chunk " + chunk.file());
+        }
+        return bytes;
+    }
+    
+    private List<Object[]> decodeChunk(Table table, Path directory, Chunk chunk) throws IOException {
+        byte[] bytes = readVerified(directory, chunk);
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes), 64 * 1024))) {
+            int count = in.readInt();
+            if (count != chunk.rows()) {
+                throw new RuntimeException("Row count mismatch in snapshot chunk " + chunk.file());
+            }
+            Object[][] rows = new Object[count][table.columns().size()];
+            for (int c = 0; c < table.columns().size(); c++) {
+                ColumnType type = table.columns().get(c).type();
+                for (int r = 0; r < count; r++) {
+                    rows[r][c] = readValue(in, type);
+                }
+            }
+            return Arrays.asList(rows);
+        }
+    }
+    
+    // Each chunk commits on its own so loaders run in parallel
+    private Void loadChunk(Table table, Path directory, Chunk chunk) throws IOException {
+        List<Object[]> rows = decodeChunk(table, directory, chunk);
+        String columns = table.columns().stream().map(Column::name).collect(Collectors.joining(", "));
+        String placeholders = table.columns().stream().map(column -> "?").collect(Collectors.joining(", "));
+        String sql = "INSERT INTO " + table.name() + " (" + columns + ") VALUES (" + placeholders + ")";
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(sql, rows, 1000, (ps, row) -> {
+                    for (int c = 0; c < table.columns().size(); c++) {
+                        bindValue(ps, c + 1, table.columns().get(c).type(), row[c]);
+                    }
+                }));
+        return null;
+    }
+    
+    // Rows were inserted with explicit ids, so move the id generator past them.
+    // Archived rows took their ids from the same generator, so they count too.
+    private void restartIdentity(String table, String idColumn, String archiveTable) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM (SELECT " + idColumn + " AS id FROM " + table
+                + " UNION ALL SELECT " + idColumn + " AS id FROM " + archiveTable + ") ids", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        String product = databaseProduct();
+        if ("H2".equalsIgnoreCase(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + idColumn + " RESTART WITH " + (maxId + 1));
+        } else if ("PostgreSQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence(?, ?), ?)", Long.class,
+                    table, idColumn, maxId);
+        } else if ("MySQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (maxId + 1));
+        }
+    }
+    
+    private String databaseProduct() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+    }
+    
+    private static Object[] readRow(Table table, ResultSet rs) throws SQLException {
+        Object[] row = new Object[table.columns().size()];
+        for (int c = 0; c < row.length; c++) {
+            switch (table.columns().get(c).type()) {
+                case LONG -> row[c] = rs.getLong(c + 1);
+                case STRING -> row[c] = rs.getString(c + 1);
+                case TIMESTAMP -> {
+                    Timestamp timestamp = rs.getTimestamp(c + 1);
+                    row[c] = timestamp != null ? timestamp.toLocalDateTime() : null;
+                }
+            }
+        }
+        return row;
+    }
+    
+    private static void bindValue(PreparedStatement ps, int index, ColumnType type, Object value) throws SQLException {
+        switch (type) {
+            case LONG -> ps.setLong(index, (Long) value);
+            case STRING -> ps.setString(index, (String) value);
+            case TIMESTAMP -> {
+                if (value == null) {
+                    ps.setNull(index, Types.TIMESTAMP);
+                } else {
+                    ps.setTimestamp(index, Timestamp.valueOf((LocalDateTime) value));
+                }
+            }
+        }
+    }
+    
+    // Strings are length-prefixed UTF-8 (-1 for null); TEXT can exceed writeUTF's 64KB limit
+    private static void writeValue(DataOutputStream out, ColumnType type, Object value) throws IOException {
+        switch (type) {
+            case LONG -> out.writeLong((Long) value);
+            case STRING -> {
+                if (value == null) {
+                    out.writeInt(-1);
+                } else {
+                    byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            case TIMESTAMP -> {
+                if (value == null) {
+                    out.writeBoolean(false);
+                } else {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    out.writeBoolean(true);
+                    out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                    out.writeInt(dateTime.getNano());
+                }
+            }
+        }
+    }
+    
+    private static Object readValue(DataInputStream in, ColumnType type) throws IOException {
+        switch (type) {
+            case LONG:
+                return in.readLong();
+            case STRING:
+                int length = in.readInt();
+                if (length < 0) {
+                    return null;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            case TIMESTAMP:
+                if (!in.readBoolean()) {
+                    return null;
+                }
+                long seconds = in.readLong();
+                int nanos = in.readInt();
+                return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+            default:
+                throw new IllegalStateException("Unknown column type " + type);
+        }
+    }
+    
+    private void writeManifest(Path directory, Map<Table, List<Chunk>> chunks) {
+        Properties manifest = new Properties();
+        manifest.setProperty("format", FORMAT);
+        for (Map.Entry<Table, List<Chunk>> entry : chunks.entrySet()) {
+            String table = entry.getKey().name();
+            manifest.setProperty(table + ".chunks", String.valueOf(entry.getValue().size()));
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                Chunk chunk = entry.getValue().get(i);
+                String prefix = table + ".chunk." + i + ".";
+                manifest.setProperty(prefix + "file", chunk.file());
+                manifest.setProperty(prefix + "rows", String.valueOf(chunk.rows()));
+                manifest.setProperty(prefix + "crc32", String.valueOf(chunk.crc32()));
+                manifest.setProperty(prefix + "bytes", String.valueOf(chunk.bytes()));
+            }
+        }
+        // Written last: a directory without a manifest is an incomplete export
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(MANIFEST), StandardCharsets.UTF_8)) {
+            manifest.store(writer, "User Management snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private Map<Table, List<Chunk>> readManifest(Path directory) {
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve(MANIFEST), StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Snapshot manifest not readable at " + directory, e);
+        }
+        if (!FORMAT.equals(manifest.getProperty("format"))) {
+            throw new RuntimeException("Unsupported snapshot format: " + manifest.getProperty("format"));
+        }
+        
+        Map<Table, List<Chunk>> chunks = new LinkedHashMap<>();
+        for (Table table : TABLES) {
+            int count = Integer.parseInt(manifest.getProperty(table.name() + ".chunks", "0"));
+            List<Chunk> tableChunks = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String prefix = table.name() + ".chunk." + i + ".";
+                String file = manifest.getProperty(prefix + "file");
+                if (file == null || file.contains("/") || file.contains("\\")) {
+                    throw new RuntimeException("Invalid chunk entry " + prefix + "file in manifest");
+                }
+                tableChunks.add(new Chunk(file,
+                        Integer.parseInt(manifest.getProperty(prefix + "rows")),
+                        Long.parseLong(manifest.getProperty(prefix + "crc32")),
+                        Long.parseLong(manifest.getProperty(prefix + "bytes"))));
+            }
+            chunks.put(table, tableChunks);
+        }
+        return chunks;
+    }
+    
+    private static Map<String, Object> summarize(Path directory, Map<Table, List<Chunk>> chunks, long start) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("directory", directory.toString());
+        for (Map.Entry<Table, List<Chunk>> entry : chunks.entrySet()) {
+            summary.put(entry.getKey().name() + "Rows", entry.getValue().stream().mapToLong(Chunk::rows).sum());
+        }
+        summary.put("chunks", chunks.values().stream().mapToInt(List::size).sum());
+        summary.put("bytes", chunks.values().stream().flatMap(List::stream).mapToLong(Chunk::bytes).sum());
+        summary.put("elapsedMs", System.currentTimeMillis() - start);
+        return summary;
+    }
+    
+    private static void awaitAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            await(future);
+        }
+    }
+    
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while processing snapshot", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Snapshot chunk failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.usermanagement.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Defers side effects on in-memory state until the surrounding transaction commits
+final class TransactionCallbacks {
+    
+    private TransactionCallbacks() {}
+    
+    // Run now when there is no transaction, otherwise only once it commits
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.usermanagement.service;
 
 import com.example.usermanagement.dto.UserMasterDTO;
 import com.example.usermanagement.dto.AddressDTO;
+import com.example.usermanagement.dto.UserStatsDTO;
 import com.example.usermanagement.entity.UserMaster;
 import com.example.usermanagement.entity.UserAddresses;
 import com.example.usermanagement.repository.UserMasterRepository;
@@ -10,27 +11,46 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class UserService {
     
+    // Result of a by-id read; fromArchive is set when the hot table missed
+    private record UserLookup(UserMasterDTO user, boolean fromArchive) {}
+    
     @Autowired
     private UserMasterRepository userMasterRepository;
     
     @Autowired
     private UserAddressesRepository userAddressesRepository;
     
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+    
+    @Autowired
+    private UserStatsService userStatsService;
+    
+    @Autowired
+    private ArchiveService archiveService;
+    
+    @Autowired
+    private SnapshotService snapshotService;
+    
     // Create User
     @Transactional
     public UserMasterDTO createUser(UserMasterDTO userDTO) {
-        if (userMasterRepository.existsByUserName(userDTO.getUserName())) {
+        snapshotService.checkWritable();
+        if (isUserNameTaken(userDTO.getUserName())) {
             throw new RuntimeException("Username already exists");
         }
         
         UserMaster user = convertToEntity(userDTO);
         UserMaster savedUser = userMasterRepository.save(user);
+        List<String> addressTypes = new ArrayList<>();
         
         // Save addresses if provided
         if (userDTO.getAddresses() != null && !userDTO.getAddresses().isEmpty()) {
@@ -40,9 +60,12 @@ public class UserService {
                 address.setFullAddress(addressDTO.getFullAddress());
                 address.setAddressType(addressDTO.getAddressType());
                 userAddressesRepository.save(address);
+                addressTypes.add(address.getAddressType());
             }
         }
         
+        userStatsService.userCreated(savedUser.getStatus(), addressTypes);
+        requestCoalescer.invalidateNamespace("status");
         return convertToDTO(savedUser);
     }
     
@@ -55,46 +78,87 @@ public class UserService {
     
     // Get User by ID
     public UserMasterDTO getUserById(Long id) {
-        UserMaster user = userMasterRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
-        return convertToDTO(user);
+        UserLookup lookup = requestCoalescer.execute("user", id, () -> userMasterRepository.findById(id)
+                .map(user -> new UserLookup(convertToDTO(user), false))
+                .orElseGet(() -> new UserLookup(archiveService.findArchivedUser(id).orElse(null), true)));
+        // Recorded per caller, not per shared read, so the archive hit rate holds with coalescing on
+        if (lookup.fromArchive()) {
+            archiveService.recordLookup(lookup.user() != null);
+        }
+        if (lookup.user() == null) {
+            throw new RuntimeException("User not found with id: " + id);
+        }
+        return lookup.user();
     }
     
     // Update User
     @Transactional
     public UserMasterDTO updateUser(Long id, UserMasterDTO userDTO) {
+        snapshotService.checkWritable();
+        // Updating an archived user (e.g. reactivating it) brings it back to the hot table
         UserMaster existingUser = userMasterRepository.findById(id)
+                .or(() -> archiveService.restoreUser(id))
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
         // Check if username is being changed and if it already exists
         if (!existingUser.getUserName().equals(userDTO.getUserName()) &&
-            userMasterRepository.existsByUserName(userDTO.getUserName())) {
+            isUserNameTaken(userDTO.getUserName())) {
             throw new RuntimeException("Username already exists");
         }
         
+        String previousStatus = existingUser.getStatus();
         existingUser.setUserName(userDTO.getUserName());
         existingUser.setUserPassword(userDTO.getUserPassword());
         existingUser.setUserPhoneNumber(userDTO.getUserPhoneNumber());
+        if (!previousStatus.equals(userDTO.getStatus())) {
+            existingUser.setStatusUpdatedAt(LocalDateTime.now());
+        }
         existingUser.setStatus(userDTO.getStatus());
         
         UserMaster updatedUser = userMasterRepository.save(existingUser);
+        userStatsService.userStatusChanged(previousStatus, updatedUser.getStatus());
+        requestCoalescer.invalidate("user", id);
+        requestCoalescer.invalidateNamespace("status");
         return convertToDTO(updatedUser);
     }
     
     // Delete User
     @Transactional
     public void deleteUser(Long id) {
-        if (!userMasterRepository.existsById(id)) {
-            throw new RuntimeException("User not found with id: " + id);
+        snapshotService.checkWritable();
+        UserMaster user = userMasterRepository.findById(id).orElse(null);
+        if (user == null) {
+            if (!archiveService.deleteArchivedUser(id)) {
+                throw new RuntimeException("User not found with id: " + id);
+            }
+            requestCoalescer.invalidate("user", id);
+            return;
         }
-        userMasterRepository.deleteById(id);
+        List<String> addressTypes = userAddressesRepository.findByUserMaster_UserId(id).stream()
+                .map(UserAddresses::getAddressType)
+                .collect(Collectors.toList());
+        userMasterRepository.delete(user);
+        userStatsService.userDeleted(user.getStatus(), addressTypes);
+        requestCoalescer.invalidate("user", id);
+        requestCoalescer.invalidateNamespace("status");
+    }
+    
+    // Get User and Address Counts
+    public UserStatsDTO getStats() {
+        return userStatsService.getStats();
     }
     
     // Get Users by Status
     public List<UserMasterDTO> getUsersByStatus(String status) {
-        return userMasterRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return requestCoalescer.execute("status", status, () ->
+                userMasterRepository.findByStatus(status).stream()
+                        .map(this::convertToDTO)
+                        .collect(Collectors.toList()));
+    }
+    
+    // Usernames stay unique across hot and archived users so restores can't collide
+    private boolean isUserNameTaken(String userName) {
+        return userMasterRepository.existsByUserName(userName) || archiveService.isUserNameArchived(userName);
     }
     
     // Helper method to convert Entity to DTO
@@ -0,0 +1,195 @@
+package com.example.usermanagement.service;
+
+import com.example.usermanagement.dto.UserStatsDTO;
+import com.example.usermanagement.repository.UserAddressesArchiveRepository;
+import com.example.usermanagement.repository.UserAddressesRepository;
+import com.example.usermanagement.repository.UserMasterArchiveRepository;
+import com.example.usermanagement.repository.UserMasterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Keeps user/address counts in memory so dashboards don't scan the tables.
+// Services report deltas after commit; a periodic GROUP BY corrects any drift.
+@Service
+public class UserStatsService {
+    
+    private static final Logger log = LoggerFactory.getLogger(UserStatsService.class);
+    
+    private static final String UNSPECIFIED = "UNSPECIFIED";
+    
+    @Autowired
+    private UserMasterRepository userMasterRepository;
+    
+    @Autowired
+    private UserAddressesRepository userAddressesRepository;
+    
+    @Autowired
+    private UserMasterArchiveRepository userMasterArchiveRepository;
+    
+    @Autowired
+    private UserAddressesArchiveRepository userAddressesArchiveRepository;
+    
+    private volatile Map<String, Long> usersByStatus = new ConcurrentHashMap<>();
+    
+    private volatile Map<String, Long> addressesByType = new ConcurrentHashMap<>();
+    
+    private volatile LocalDateTime lastReconciled;
+    
+    // Guards counter writes and the swap in reconcile()
+    private final Object lock = new Object();
+    
+    // Deltas applied while reconcile() runs, replayed onto the rebuilt counters
+    private Map<String, Long> pendingUsersByStatus;
+    private Map<String, Long> pendingAddressesByType;
+    
+    // Get Stats
+    public UserStatsDTO getStats() {
+        Map<String, Long> statusCounts = new TreeMap<>(usersByStatus);
+        Map<String, Long> typeCounts = new TreeMap<>(addressesByType);
+        
+        UserStatsDTO dto = new UserStatsDTO();
+        dto.setUsersByStatus(statusCounts);
+        dto.setAddressesByType(typeCounts);
+        dto.setTotalUsers(sum(statusCounts));
+        dto.setTotalAddresses(sum(typeCounts));
+        dto.setLastReconciled(lastReconciled);
+        return dto;
+    }
+    
+    public void userCreated(String status, Collection<String> addressTypes) {
+        TransactionCallbacks.afterCommit(() -> {
+            countUser(status, 1);
+            addressTypes.forEach(type -> countAddress(type, 1));
+        });
+    }
+    
+    public void userStatusChanged(String oldStatus, String newStatus) {
+        if (keyOf(oldStatus).equals(keyOf(newStatus))) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            countUser(oldStatus, -1);
+            countUser(newStatus, 1);
+        });
+    }
+    
+    public void userDeleted(String status, Collection<String> addressTypes) {
+        TransactionCallbacks.afterCommit(() -> {
+            countUser(status, -1);
+            addressTypes.forEach(type -> countAddress(type, -1));
+        });
+    }
+    
+    public void addressCreated(String addressType) {
+        TransactionCallbacks.afterCommit(() -> countAddress(addressType, 1));
+    }
+    
+    public void addressTypeChanged(String oldType, String newType) {
+        if (keyOf(oldType).equals(keyOf(newType))) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            countAddress(oldType, -1);
+            countAddress(newType, 1);
+        });
+    }
+    
+    public void addressDeleted(String addressType) {
+        TransactionCallbacks.afterCommit(() -> countAddress(addressType, -1));
+    }
+    
+    // Rebuild counters from the database, archived users included since
+    // archival only moves rows. The four queries share one snapshot, so an
+    // archival batch committing in between can't be counted twice or missed.
+    // Deltas committed while they run are replayed onto the result; one whose
+    // commit the snapshot already saw, but whose after-commit hook fires late,
+    // is counted twice until the next pass.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        synchronized (lock) {
+            pendingUsersByStatus = new ConcurrentHashMap<>();
+            pendingAddressesByType = new ConcurrentHashMap<>();
+        }
+        try {
+            Map<String, Long> statusCounts = toCounts(userMasterRepository.countGroupByStatus());
+            Map<String, Long> typeCounts = toCounts(userAddressesRepository.countGroupByAddressType());
+            toCounts(userMasterArchiveRepository.countGroupByStatus()).forEach((key, count) -> add(statusCounts, key, count));
+            toCounts(userAddressesArchiveRepository.countGroupByAddressType()).forEach((key, count) -> add(typeCounts, key, count));
+            
+            synchronized (lock) {
+                pendingUsersByStatus.forEach((key, delta) -> add(statusCounts, key, delta));
+                pendingAddressesByType.forEach((key, delta) -> add(typeCounts, key, delta));
+                if (!statusCounts.equals(usersByStatus) || !typeCounts.equals(addressesByType)) {
+                    log.debug("Stats drift corrected: users {} -> {}, addresses {} -> {}",
+                            usersByStatus, statusCounts, addressesByType, typeCounts);
+                }
+                log.debug("Replayed deltas from during reconcile: users {}, addresses {}",
+                        pendingUsersByStatus, pendingAddressesByType);
+                usersByStatus = statusCounts;
+                addressesByType = typeCounts;
+                lastReconciled = LocalDateTime.now();
+            }
+        } finally {
+            synchronized (lock) {
+                pendingUsersByStatus = null;
+                pendingAddressesByType = null;
+            }
+        }
+    }
+    
+    private void countUser(String status, long delta) {
+        synchronized (lock) {
+            add(usersByStatus, status, delta);
+            if (pendingUsersByStatus != null) {
+                add(pendingUsersByStatus, status, delta);
+            }
+        }
+    }
+    
+    private void countAddress(String addressType, long delta) {
+        synchronized (lock) {
+            add(addressesByType, addressType, delta);
+            if (pendingAddressesByType != null) {
+                add(pendingAddressesByType, addressType, delta);
+            }
+        }
+    }
+    
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        for (Object[] row : rows) {
+            counts.merge(keyOf((String) row[0]), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+    
+    // Entries that drop to zero are removed so the maps only list live values
+    private static void add(Map<String, Long> counts, String key, long delta) {
+        counts.merge(keyOf(key), delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+    
+    private static String keyOf(String value) {
+        return value != null ? value : UNSPECIFIED;
+    }
+    
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
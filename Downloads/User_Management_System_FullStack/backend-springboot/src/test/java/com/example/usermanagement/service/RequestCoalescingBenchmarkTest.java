@@ -0,0 +1,176 @@
+package com.example.usermanagement.service;
+
+import com.example.usermanagement.dto.AddressDTO;
+import com.example.usermanagement.dto.UserMasterDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Thundering-herd benchmark: fires CALLERS identical reads at once with
+// coalescing off and on, and compares the JDBC statements Hibernate prepared.
+// Tagged "benchmark" so the default build skips it; run it with -Pbenchmark.
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.usermanagement.service.RequestCoalescingBenchmarkTest$HerdGate",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example.usermanagement=INFO",
+        "app.archive.enabled=false",
+        "app.coalescing.timeout-ms=30000"
+})
+class RequestCoalescingBenchmarkTest {
+    
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescingBenchmarkTest.class);
+    
+    private static final int CALLERS = 200;
+    private static final int SEEDED_USERS = 100;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @AfterEach
+    void restoreCoalescing() {
+        ReflectionTestUtils.setField(requestCoalescer, "enabled", true);
+    }
+    
+    @Test
+    void herdOnUsersByStatusRunsFarFewerQueries() throws Exception {
+        seedUsers("herd_status");
+        
+        long uncoalesced = herd(false, () -> userService.getUsersByStatus("ACTIVE"));
+        long coalesced = herd(true, () -> userService.getUsersByStatus("ACTIVE"));
+        
+        report("GET /api/users/status/ACTIVE", uncoalesced, coalesced);
+        assertThat(coalesced).isLessThan(uncoalesced / 2);
+    }
+    
+    @Test
+    void herdOnUserByIdRunsFewerQueries() throws Exception {
+        Long userId = seedUsers("herd_by_id").get(0);
+        
+        long uncoalesced = herd(false, () -> userService.getUserById(userId));
+        long coalesced = herd(true, () -> userService.getUserById(userId));
+        
+        report("GET /api/users/{id}", uncoalesced, coalesced);
+        assertThat(coalesced).isLessThan(uncoalesced);
+    }
+    
+    // Release all callers at once and count the statements they caused
+    private long herd(boolean coalescing, Callable<?> call) throws Exception {
+        ReflectionTestUtils.setField(requestCoalescer, "enabled", coalescing);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        if (coalescing) {
+            // Joined once every caller but the leader is waiting on its flight
+            long joined = requestCoalescer.getStats().get("coalesced") + CALLERS - 1;
+            HerdGate.open = () -> requestCoalescer.getStats().get("coalesced") >= joined;
+        }
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(pool.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    return call.call();
+                }));
+            }
+            ready.await();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            HerdGate.open = null;
+            pool.shutdownNow();
+        }
+        return statistics.getPrepareStatementCount();
+    }
+    
+    
+    private List<Long> seedUsers(String prefix) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            AddressDTO address = new AddressDTO();
+            address.setFullAddress(i + " Main Street, Boston, MA 02101");
+            address.setAddressType("HOME");
+            
+            UserMasterDTO user = new UserMasterDTO();
+            user.setUserName(prefix + "_" + i);
+            user.setUserPassword("password");
+            user.setUserPhoneNumber(String.format("%010d", i));
+            user.setStatus("ACTIVE");
+            user.setAddresses(List.of(address));
+            ids.add(userService.createUser(user).getUserId());
+        }
+        return ids;
+    }
+    
+    private void report(String endpoint, long uncoalesced, long coalesced) {
+        log.info("{} x {} concurrent callers: {} statements without coalescing, {} with ({})",
+                endpoint, CALLERS, uncoalesced, coalesced, requestCoalescer.getStats());
+    }
+    
+    // Holds user_master reads until the herd has joined the leader's flight, so the
+    // coalesced count doesn't depend on how fast the pool happened to start threads
+    public static class HerdGate implements StatementInspector {
+        
+        private static final long JOIN_TIMEOUT_MS = 10_000;
+        
+        static volatile BooleanSupplier open;
+        
+        @Override
+        public String inspect(String sql) {
+            BooleanSupplier gate = open;
+            if (gate == null || !sql.toLowerCase(Locale.ROOT).contains("from user_master ")) {
+                return sql;
+            }
+            long deadline = System.currentTimeMillis() + JOIN_TIMEOUT_MS;
+            while (!gate.getAsBoolean()) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("Herd did not join the flight within " + JOIN_TIMEOUT_MS + " ms");
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return sql;
+        }
+    }
+}
@@ -13,6 +13,7 @@ CREATE TABLE IF NOT EXISTS user_master (
     user_phone_number VARCHAR(15) NOT NULL,
     date_of_registration DATETIME NOT NULL,
     status VARCHAR(20) NOT NULL,
+    status_updated_at DATETIME,
     INDEX idx_username (user_name),
     INDEX idx_status (status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -27,6 +28,27 @@ CREATE TABLE IF NOT EXISTS user_addresses (
     INDEX idx_user_id (user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Create Archive Tables (dormant users moved out of the hot tables)
+CREATE TABLE IF NOT EXISTS user_master_archive (
+    user_id BIGINT PRIMARY KEY,
+    user_name VARCHAR(100) NOT NULL UNIQUE,
+    user_password VARCHAR(255) NOT NULL,
+    user_phone_number VARCHAR(15) NOT NULL,
+    date_of_registration DATETIME NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    status_updated_at DATETIME,
+    archived_at DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS user_addresses_archive (
+    address_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    full_address TEXT NOT NULL,
+    address_type VARCHAR(50),
+    archived_at DATETIME NOT NULL,
+    INDEX idx_archive_user_id (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- Insert Sample Data (Optional - for testing)
 INSERT INTO user_master (user_name, user_password, user_phone_number, date_of_registration, status) 
 VALUES 
@@ -18,6 +18,7 @@ export const userAPI = {
     updateUser: (id, userData) => api.put(`/users/${id}`, userData),
     deleteUser: (id) => api.delete(`/users/${id}`),
     getUsersByStatus: (status) => api.get(`/users/status/${status}`),
+    getStats: () => api.get('/users/stats'),
 };
 
 // Address API calls
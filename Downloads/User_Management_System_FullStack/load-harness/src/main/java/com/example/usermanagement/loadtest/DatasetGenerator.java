@@ -0,0 +1,87 @@
+package com.example.usermanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Deterministic, skewed user/address payloads. Each user is derived from
+// (seed, index) alone, so datasets are identical regardless of thread order.
+final class DatasetGenerator {
+    
+    // Most of the directory is dormant, as in production
+    private static final String[] STATUSES = {"ACTIVE", "INACTIVE", "SUSPENDED"};
+    private static final double[] STATUS_WEIGHTS = {0.30, 0.55, 0.15};
+    
+    private static final String[] ADDRESS_TYPES = {"HOME", "OFFICE", "OTHER"};
+    private static final double[] ADDRESS_TYPE_WEIGHTS = {0.60, 0.30, 0.10};
+    
+    private static final String[] STREETS = {"Main Street", "Park Road", "Oak Lane", "Business Ave", "Elm Court",
+            "Maple Drive", "Harbor Way", "Hill Street", "River Road", "Station Lane"};
+    private static final String[] CITIES = {"Boston, MA 02101", "Cambridge, MA 02139", "Somerville, MA 02143",
+            "Newton, MA 02458", "Quincy, MA 02169", "Brookline, MA 02445"};
+    
+    private static final int MAX_ADDRESSES = 6;
+    
+    private final long seed;
+    private final String namePrefix;
+    
+    DatasetGenerator(long seed, String namePrefix) {
+        this.seed = seed;
+        this.namePrefix = namePrefix;
+    }
+    
+    // Request body for POST/PUT /api/users
+    Map<String, Object> user(long index) {
+        SplittableRandom random = randomFor(index);
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("userName", namePrefix + "_" + seed + "_" + index);
+        user.put("userPassword", "pw" + Long.toHexString(random.nextLong()));
+        user.put("userPhoneNumber", String.format("%010d", random.nextLong(1_000_000_000L, 10_000_000_000L)));
+        user.put("status", pick(random, STATUSES, STATUS_WEIGHTS));
+        
+        // Geometric address count: many users with one, a long tail with several
+        int count = 0;
+        while (count < MAX_ADDRESSES && random.nextDouble() < 0.55) {
+            count++;
+        }
+        List<Map<String, Object>> addresses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            addresses.add(address(random, null));
+        }
+        user.put("addresses", addresses);
+        return user;
+    }
+    
+    // Request body for POST/PUT /api/addresses
+    Map<String, Object> address(SplittableRandom random, Long userId) {
+        Map<String, Object> address = new LinkedHashMap<>();
+        if (userId != null) {
+            address.put("userId", userId);
+        }
+        address.put("fullAddress", (1 + random.nextInt(9999)) + " " + STREETS[random.nextInt(STREETS.length)]
+                + ", " + CITIES[random.nextInt(CITIES.length)]);
+        address.put("addressType", pick(random, ADDRESS_TYPES, ADDRESS_TYPE_WEIGHTS));
+        return address;
+    }
+    
+    String status(SplittableRandom random) {
+        return pick(random, STATUSES, STATUS_WEIGHTS);
+    }
+    
+    private SplittableRandom randomFor(long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+    }
+    
+    private static String pick(SplittableRandom random, String[] values, double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.usermanagement.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Parses "<command> --key=value ..." arguments
+final class HarnessConfig {
+    
+    private final String command;
+    private final Map<String, String> options;
+    
+    private HarnessConfig(String command, Map<String, String> options) {
+        this.command = command;
+        this.options = options;
+    }
+    
+    static HarnessConfig parse(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Missing command (seed | run)");
+        }
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return new HarnessConfig(args[0], options);
+    }
+    
+    String command() {
+        return command;
+    }
+    
+    String get(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+    
+    int getInt(String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+    
+    long getLong(String key, long defaultValue) {
+        return options.containsKey(key) ? Long.parseLong(options.get(key)) : defaultValue;
+    }
+    
+    double getDouble(String key, double defaultValue) {
+        return options.containsKey(key) ? Double.parseDouble(options.get(key)) : defaultValue;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.usermanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-operation HdrHistograms of response time in microseconds, measured from the
+// intended send time so a stalled server can't hide its queueing delay.
+final class LatencyReport {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+    
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> dropped = new EnumMap<>(Operation.class);
+    private final Histogram total = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder interval = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final AtomicLong intervalErrors = new AtomicLong();
+    
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+    
+    void record(Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        total.recordValue(micros);
+        interval.recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+            intervalErrors.incrementAndGet();
+        }
+    }
+    
+    // The client had too many requests outstanding to issue this one on time
+    void recordDropped(Operation operation) {
+        dropped.get(operation).increment();
+    }
+    
+    void printInterval(PrintStream out, double elapsedSeconds, double intervalSeconds, int inFlight) {
+        Histogram snapshot = interval.getIntervalHistogram();
+        out.printf("[%6.0fs] %8.0f req/s  p50 %8.2f  p99 %8.2f  max %8.2f ms  errors %d  in-flight %d%n",
+                elapsedSeconds, snapshot.getTotalCount() / intervalSeconds,
+                snapshot.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                snapshot.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                snapshot.getMaxValue() / MICROS_PER_MILLI,
+                intervalErrors.getAndSet(0), inFlight);
+    }
+    
+    void printSummary(PrintStream out, double seconds) {
+        out.printf("%n%-18s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() > 0 || dropped.get(operation).sum() > 0) {
+                printRow(out, operation.name(), histogram, errors.get(operation).sum(), dropped.get(operation).sum(),
+                        seconds);
+            }
+        }
+        printRow(out, "TOTAL", total, errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                dropped.values().stream().mapToLong(LongAdder::sum).sum(), seconds);
+    }
+    
+    // One .hgrm per operation (plottable with HdrHistogram's plotter) plus a
+    // summary.csv row per operation tagged with the build label, for comparing builds
+    void write(Path directory, String label, double seconds) throws IOException {
+        Files.createDirectories(directory);
+        writeHgrm(directory.resolve("TOTAL.hgrm"), total);
+        for (Operation operation : Operation.values()) {
+            if (histograms.get(operation).getTotalCount() > 0) {
+                writeHgrm(directory.resolve(operation.name() + ".hgrm"), histograms.get(operation));
+            }
+        }
+        
+        Path csv = directory.resolve("summary.csv");
+        boolean header = !Files.exists(csv);
+        StringBuilder rows = new StringBuilder();
+        if (header) {
+            rows.append("label,operation,count,errors,dropped,throughput,p50_ms,p90_ms,p99_ms,p999_ms,p9999_ms,max_ms\n");
+        }
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() > 0) {
+                appendCsv(rows, label, operation.name(), histogram, errors.get(operation).sum(),
+                        dropped.get(operation).sum(), seconds);
+            }
+        }
+        appendCsv(rows, label, "TOTAL", total, errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                dropped.values().stream().mapToLong(LongAdder::sum).sum(), seconds);
+        Files.writeString(csv, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+    
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errorCount, long droppedCount,
+                                 double seconds) {
+        out.printf("%-18s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errorCount, droppedCount, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+    
+    private static void appendCsv(StringBuilder rows, String label, String name, Histogram histogram, long errorCount,
+                                  long droppedCount, double seconds) {
+        rows.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                label, name, histogram.getTotalCount(), errorCount, droppedCount, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.99) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI));
+    }
+    
+    private static void writeHgrm(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.usermanagement.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+// Entry point:
+//   seed --users=N [--concurrency=32] [--seed=42] [--ids-file=seed-ids.csv]
+//   run  --rate=R --duration=S [--warmup=30] [--mix=mixed] [--key-skew=1.0]
+//        [--max-in-flight=1000] [--label=build] [--out=results]
+// Both take --base-url (default http://localhost:9090/api).
+public final class LoadHarness {
+    
+    private LoadHarness() {}
+    
+    public static void main(String[] args) throws Exception {
+        HarnessConfig config = HarnessConfig.parse(args);
+        String baseUrl = config.get("base-url", "http://localhost:9090/api");
+        long seed = config.getLong("seed", 42L);
+        Path idsFile = Path.of(config.get("ids-file", "seed-ids.csv"));
+        
+        switch (config.command()) {
+            case "seed" -> seed(config, baseUrl, seed, idsFile);
+            case "run" -> run(config, baseUrl, seed, idsFile);
+            default -> throw new IllegalArgumentException("Unknown command '" + config.command() + "' (seed | run)");
+        }
+    }
+    
+    private static void seed(HarnessConfig config, String baseUrl, long seed, Path idsFile) throws Exception {
+        int users = config.getInt("users", 10_000);
+        int concurrency = config.getInt("concurrency", 32);
+        System.out.printf("Seeding %,d users against %s (seed %d, %d workers)%n", users, baseUrl, seed, concurrency);
+        
+        HttpClient client = httpClient(concurrency);
+        new Seeder(client, baseUrl, new DatasetGenerator(seed, "lt")).seed(users, concurrency, idsFile);
+    }
+    
+    private static void run(HarnessConfig config, String baseUrl, long seed, Path idsFile) throws Exception {
+        double rate = config.getDouble("rate", 200);
+        long warmup = config.getLong("warmup", 30);
+        long duration = config.getLong("duration", 120);
+        int maxInFlight = config.getInt("max-in-flight", 1000);
+        long reportInterval = config.getLong("report-interval", 10);
+        double keySkew = config.getDouble("key-skew", 1.0);
+        WorkloadMix mix = WorkloadMix.parse(config.get("mix", "mixed"));
+        String label = config.get("label", "unlabelled");
+        Path out = Path.of(config.get("out", "results"));
+        
+        List<SeededUser> seeded = SeededUser.load(idsFile);
+        System.out.printf("Running %s at %.0f req/s for %ds (+%ds warmup) over %,d seeded users, Zipf skew %.2f%n",
+                mix, rate, duration, warmup, seeded.size(), keySkew);
+        
+        // Users created during the run get their own name prefix so they never clash with the seed
+        DatasetGenerator generator = new DatasetGenerator(seed, "lt_run" + System.currentTimeMillis());
+        RequestFactory factory = new RequestFactory(baseUrl, seeded, new ZipfSampler(seeded.size(), keySkew, seed),
+                generator);
+        LatencyReport report = new LatencyReport();
+        
+        HttpClient client = httpClient(Runtime.getRuntime().availableProcessors());
+        new LoadRunner(client, factory, mix, report, seed).run(rate, warmup, duration, maxInFlight, reportInterval);
+        
+        report.printSummary(System.out, duration);
+        report.write(out, label, duration);
+        System.out.println("\nHistograms and summary.csv written to " + out.toAbsolutePath());
+    }
+    
+    private static HttpClient httpClient(int threads) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(threads, runnable -> {
+                    // Daemon threads so the JVM exits when main returns
+                    Thread thread = new Thread(runnable, "harness-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+}
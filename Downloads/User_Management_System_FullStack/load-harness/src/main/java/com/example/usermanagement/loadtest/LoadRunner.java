@@ -0,0 +1,95 @@
+package com.example.usermanagement.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model driver: requests arrive as a Poisson process at a fixed mean rate,
+// independent of how fast the server answers. A slow server therefore builds a
+// queue (visible in latency) instead of silently lowering the offered load.
+final class LoadRunner {
+    
+    private final HttpClient client;
+    private final RequestFactory factory;
+    private final WorkloadMix mix;
+    private final LatencyReport report;
+    private final SplittableRandom random;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    LoadRunner(HttpClient client, RequestFactory factory, WorkloadMix mix, LatencyReport report, long seed) {
+        this.client = client;
+        this.factory = factory;
+        this.mix = mix;
+        this.report = report;
+        this.random = new SplittableRandom(seed);
+    }
+    
+    void run(double ratePerSecond, long warmupSeconds, long durationSeconds, int maxInFlight,
+               long reportIntervalSeconds) throws InterruptedException {
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long reportGap = TimeUnit.SECONDS.toNanos(reportIntervalSeconds);
+        long nextReport = measureFrom + reportGap;
+        double nextArrival = start;
+        
+        while (true) {
+            // Exponential inter-arrival times give a Poisson arrival process
+            nextArrival += -Math.log(1 - random.nextDouble()) * meanGapNanos;
+            long intended = (long) nextArrival;
+            if (intended >= end) {
+                break;
+            }
+            waitUntil(intended);
+            
+            long now = System.nanoTime();
+            if (now >= nextReport) {
+                report.printInterval(System.out, (now - measureFrom) / 1e9, reportIntervalSeconds, inFlight.get());
+                nextReport += reportGap;
+            }
+            
+            boolean measured = intended >= measureFrom;
+            Operation operation = mix.next(random);
+            if (inFlight.get() >= maxInFlight) {
+                if (measured) {
+                    report.recordDropped(operation);
+                }
+                continue;
+            }
+            
+            RequestFactory.Planned planned = factory.plan(operation, random);
+            inFlight.incrementAndGet();
+            client.sendAsync(planned.request(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        try {
+                            boolean success = error == null && response.statusCode() < 400;
+                            if (measured) {
+                                report.record(planned.operation(), System.nanoTime() - intended, success);
+                            }
+                            if (response != null) {
+                                factory.onResponse(planned.operation(), response);
+                            }
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+        }
+        
+        // Let outstanding requests finish so their latency is counted
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+    
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.usermanagement.loadtest;
+
+// Every UserController and AddressController endpoint the harness can drive
+enum Operation {
+    LIST_USERS("GET /api/users"),
+    GET_USER("GET /api/users/{id}"),
+    USERS_BY_STATUS("GET /api/users/status/{status}"),
+    USER_STATS("GET /api/users/stats"),
+    CREATE_USER("POST /api/users"),
+    UPDATE_USER("PUT /api/users/{id}"),
+    DELETE_USER("DELETE /api/users/{id}"),
+    LIST_ADDRESSES("GET /api/addresses"),
+    GET_ADDRESS("GET /api/addresses/{id}"),
+    ADDRESSES_BY_USER("GET /api/addresses/user/{userId}"),
+    CREATE_ADDRESS("POST /api/addresses"),
+    UPDATE_ADDRESS("PUT /api/addresses/{id}"),
+    DELETE_ADDRESS("DELETE /api/addresses/{id}");
+    
+    private final String endpoint;
+    
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    String endpoint() {
+        return endpoint;
+    }
+}
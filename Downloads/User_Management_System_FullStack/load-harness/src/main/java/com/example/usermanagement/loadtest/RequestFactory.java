@@ -0,0 +1,146 @@
+package com.example.usermanagement.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Turns an operation into a concrete HTTP request against the seeded dataset.
+// Deletes only touch rows created during the run so the seeded set stays stable;
+// when there is nothing to delete yet the matching create runs instead.
+final class RequestFactory {
+    
+    record Planned(Operation operation, HttpRequest request) {}
+    
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final List<SeededUser> seeded;
+    private final ZipfSampler sampler;
+    private final DatasetGenerator generator;
+    
+    private final ConcurrentLinkedDeque<Long> createdUsers = new ConcurrentLinkedDeque<>();
+    private final ConcurrentLinkedDeque<Long> createdAddresses = new ConcurrentLinkedDeque<>();
+    private final AtomicLong createdCount = new AtomicLong();
+    
+    RequestFactory(String baseUrl, List<SeededUser> seeded, ZipfSampler sampler, DatasetGenerator generator) {
+        this.baseUrl = baseUrl;
+        this.seeded = seeded;
+        this.sampler = sampler;
+        this.generator = generator;
+    }
+    
+    Planned plan(Operation operation, SplittableRandom random) {
+        SeededUser user = seeded.get(sampler.next(random));
+        switch (operation) {
+            case LIST_USERS:
+                return get(operation, "/users");
+            case GET_USER:
+                return get(operation, "/users/" + user.userId());
+            case USERS_BY_STATUS:
+                return get(operation, "/users/status/" + generator.status(random));
+            case USER_STATS:
+                return get(operation, "/users/stats");
+            case CREATE_USER:
+                return send(operation, "POST", "/users", generator.user(createdCount.getAndIncrement()));
+            case UPDATE_USER:
+                return send(operation, "PUT", "/users/" + user.userId(), userUpdate(user, random));
+            case DELETE_USER: {
+                Long id = createdUsers.pollFirst();
+                return id != null ? delete(operation, "/users/" + id) : plan(Operation.CREATE_USER, random);
+            }
+            case LIST_ADDRESSES:
+                return get(operation, "/addresses");
+            case GET_ADDRESS: {
+                Long id = seededAddress(user, random);
+                return id != null ? get(operation, "/addresses/" + id) : plan(Operation.ADDRESSES_BY_USER, random);
+            }
+            case ADDRESSES_BY_USER:
+                return get(operation, "/addresses/user/" + user.userId());
+            case CREATE_ADDRESS:
+                return send(operation, "POST", "/addresses", generator.address(random, user.userId()));
+            case UPDATE_ADDRESS: {
+                Long id = seededAddress(user, random);
+                return id != null
+                        ? send(operation, "PUT", "/addresses/" + id, generator.address(random, user.userId()))
+                        : plan(Operation.CREATE_ADDRESS, random);
+            }
+            case DELETE_ADDRESS: {
+                Long id = createdAddresses.pollFirst();
+                return id != null ? delete(operation, "/addresses/" + id) : plan(Operation.CREATE_ADDRESS, random);
+            }
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+    
+    // Remember created rows so later deletes have something to remove
+    void onResponse(Operation operation, HttpResponse<String> response) {
+        if (response.statusCode() != 201) {
+            return;
+        }
+        try {
+            JsonNode body = mapper.readTree(response.body());
+            if (operation == Operation.CREATE_USER) {
+                createdUsers.addLast(body.path("userId").asLong());
+            } else if (operation == Operation.CREATE_ADDRESS) {
+                createdAddresses.addLast(body.path("addressId").asLong());
+            }
+        } catch (JsonProcessingException e) {
+            // Latency is already recorded; losing one id only skews the delete pool
+        }
+    }
+    
+    // Keep the seeded username so the update never trips the uniqueness check
+    private Map<String, Object> userUpdate(SeededUser user, SplittableRandom random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userName", user.userName());
+        body.put("userPassword", "pw" + Long.toHexString(random.nextLong()));
+        body.put("userPhoneNumber", String.format("%010d", random.nextLong(1_000_000_000L, 10_000_000_000L)));
+        body.put("status", generator.status(random));
+        return body;
+    }
+    
+    private Long seededAddress(SeededUser user, SplittableRandom random) {
+        SeededUser candidate = user;
+        for (int attempt = 0; attempt < 8 && candidate.addressIds().isEmpty(); attempt++) {
+            candidate = seeded.get(sampler.next(random));
+        }
+        List<Long> ids = candidate.addressIds();
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+    
+    private Planned get(Operation operation, String path) {
+        return new Planned(operation, builder(path).GET().build());
+    }
+    
+    private Planned delete(Operation operation, String path) {
+        return new Planned(operation, builder(path).DELETE().build());
+    }
+    
+    private Planned send(Operation operation, String method, String path, Map<String, Object> body) {
+        try {
+            return new Planned(operation, builder(path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize request body", e);
+        }
+    }
+    
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+}
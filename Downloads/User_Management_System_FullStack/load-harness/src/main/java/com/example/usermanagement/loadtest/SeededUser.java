@@ -0,0 +1,40 @@
+package com.example.usermanagement.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// A user created by the seeder, persisted as "index,userId,userName,status,addressId|addressId"
+record SeededUser(long index, long userId, String userName, String status, List<Long> addressIds) {
+    
+    static void save(Path file, List<SeededUser> users) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (SeededUser user : users) {
+                writer.write(user.index() + "," + user.userId() + "," + user.userName() + "," + user.status() + ","
+                        + user.addressIds().stream().map(String::valueOf).collect(Collectors.joining("|")));
+                writer.newLine();
+            }
+        }
+    }
+    
+    static List<SeededUser> load(Path file) throws IOException {
+        List<SeededUser> users = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] parts = line.split(",", -1);
+            List<Long> addressIds = parts[4].isEmpty() ? List.of()
+                    : Arrays.stream(parts[4].split("\\|")).map(Long::valueOf).collect(Collectors.toList());
+            users.add(new SeededUser(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2], parts[3],
+                    addressIds));
+        }
+        return users;
+    }
+}
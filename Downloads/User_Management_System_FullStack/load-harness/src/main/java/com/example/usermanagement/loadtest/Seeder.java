@@ -0,0 +1,93 @@
+package com.example.usermanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Creates the seeded dataset through POST /api/users and records the ids it got back
+final class Seeder {
+    
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final DatasetGenerator generator;
+    
+    Seeder(HttpClient client, String baseUrl, DatasetGenerator generator) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.generator = generator;
+    }
+    
+    void seed(int users, int concurrency, Path idsFile) throws Exception {
+        ConcurrentLinkedQueue<SeededUser> seeded = new ConcurrentLinkedQueue<>();
+        // ConcurrentLinkedQueue.size() walks the queue, so successes are counted separately
+        AtomicInteger created = new AtomicInteger();
+        AtomicLong failures = new AtomicLong();
+        long start = System.nanoTime();
+        
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < users; i++) {
+            long index = i;
+            pool.execute(() -> {
+                try {
+                    seeded.add(createUser(index));
+                    int done = created.incrementAndGet();
+                    if (done % 10_000 == 0) {
+                        System.out.printf("  seeded %,d users%n", done);
+                    }
+                } catch (Exception e) {
+                    if (failures.incrementAndGet() <= 10) {
+                        System.err.println("Seeding user " + index + " failed: " + e.getMessage());
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        
+        List<SeededUser> sorted = new ArrayList<>(seeded);
+        sorted.sort(Comparator.comparingLong(SeededUser::index));
+        SeededUser.save(idsFile, sorted);
+        
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Seeded %,d users (%,d failed) in %.1f s, %.0f users/s; ids written to %s%n",
+                sorted.size(), failures.get(), seconds, sorted.size() / seconds, idsFile);
+    }
+    
+    private SeededUser createUser(long index) throws Exception {
+        Map<String, Object> body = generator.user(index);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + ": " + response.body());
+        }
+        
+        JsonNode user = mapper.readTree(response.body());
+        List<Long> addressIds = new ArrayList<>();
+        for (JsonNode address : user.path("addresses")) {
+            addressIds.add(address.path("addressId").asLong());
+        }
+        return new SeededUser(index, user.path("userId").asLong(), user.path("userName").asText(),
+                user.path("status").asText(), addressIds);
+    }
+}
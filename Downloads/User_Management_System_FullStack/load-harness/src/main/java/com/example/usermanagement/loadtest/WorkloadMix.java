@@ -0,0 +1,76 @@
+package com.example.usermanagement.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Weighted choice of operations. Presets cover the usual shapes; a custom mix
+// is given as "GET_USER=50,CREATE_USER=5,...".
+final class WorkloadMix {
+    
+    // USERS_BY_STATUS is unpaginated and runs one address query per returned user,
+    // so it scales with the dataset like the list endpoints. Only herd and
+    // full-scan use it; run those against a small dataset.
+    private static final Map<String, String> PRESETS = Map.of(
+            "read-heavy", "GET_USER=50,ADDRESSES_BY_USER=25,GET_ADDRESS=15,USER_STATS=5,"
+                    + "UPDATE_USER=2,CREATE_ADDRESS=1,DELETE_ADDRESS=1,CREATE_USER=1",
+            "mixed", "GET_USER=35,ADDRESSES_BY_USER=15,GET_ADDRESS=13,USER_STATS=5,"
+                    + "CREATE_USER=8,UPDATE_USER=8,DELETE_USER=4,CREATE_ADDRESS=6,UPDATE_ADDRESS=5,DELETE_ADDRESS=4",
+            "write-heavy", "GET_USER=15,ADDRESSES_BY_USER=5,CREATE_USER=20,UPDATE_USER=20,DELETE_USER=10,"
+                    + "CREATE_ADDRESS=12,UPDATE_ADDRESS=10,DELETE_ADDRESS=8",
+            // Thundering herd on the coalesced read paths
+            "herd", "USERS_BY_STATUS=70,GET_USER=30",
+            // Unpaginated endpoints
+            "full-scan", "LIST_USERS=40,LIST_ADDRESSES=40,USERS_BY_STATUS=20");
+    
+    private final Operation[] operations;
+    private final double[] cumulative;
+    private final String description;
+    
+    private WorkloadMix(Map<Operation, Double> weights, String description) {
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulative = new double[operations.length];
+        double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        double running = 0;
+        for (int i = 0; i < operations.length; i++) {
+            running += weights.get(operations[i]) / total;
+            cumulative[i] = running;
+        }
+        this.description = description;
+    }
+    
+    static WorkloadMix parse(String spec) {
+        String resolved = PRESETS.getOrDefault(spec, spec);
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        for (String entry : resolved.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + entry + "', expected OPERATION=weight");
+            }
+            double weight = Double.parseDouble(parts[1]);
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix has no operations: " + spec);
+        }
+        return new WorkloadMix(weights, resolved);
+    }
+    
+    Operation next(SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (roll < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+    
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.usermanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Picks indexes in [0, n) with Zipf(s) popularity. Ranks are shuffled with a
+// fixed seed so hot keys are spread over the id range rather than the oldest users.
+final class ZipfSampler {
+    
+    private final double[] cumulative;
+    private final int[] rankToIndex;
+    
+    ZipfSampler(int n, double skew, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Cannot sample from an empty dataset");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1.0 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+        
+        rankToIndex = new int[n];
+        for (int i = 0; i < n; i++) {
+            rankToIndex[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = rankToIndex[i];
+            rankToIndex[i] = rankToIndex[j];
+            rankToIndex[j] = swap;
+        }
+    }
+    
+    int next(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return rankToIndex[Math.min(rank, rankToIndex.length - 1)];
+    }
+}